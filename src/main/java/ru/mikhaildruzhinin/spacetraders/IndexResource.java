@@ -1,5 +1,6 @@
 package ru.mikhaildruzhinin.spacetraders;
 
+import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheResult;
 import io.quarkus.qute.CheckedTemplate;
@@ -286,6 +287,29 @@ public class IndexResource {
         String system,
         WaypointType type,
         List<WaypointTraitSymbol> traits
+    ) {
+        return fetchWaypointsInSystem(system, type, traits)
+            .call(w -> w.isEmpty()
+                ? invalidateWaypointsInSystem(system, type, traits)
+                : Uni.createFrom().voidItem()
+            );
+    }
+
+    @CacheInvalidate(cacheName = "waypoints")
+    protected Uni<Void> invalidateWaypointsInSystem(
+        String system,
+        WaypointType type,
+        List<WaypointTraitSymbol> traits
+    ) {
+        return Uni.createFrom().voidItem();
+    }
+
+    // Static apart from isUnderConstruction/modifiers; only the list itself is immutable
+    @CacheResult(cacheName = "waypoints")
+    protected Uni<List<Waypoint>> fetchWaypointsInSystem(
+        String system,
+        WaypointType type,
+        List<WaypointTraitSymbol> traits
     ) {
         int initialPageSize = 20;
         return systemsApi.getSystemWaypoints(system, 1, initialPageSize, type, traits)
@@ -296,7 +320,7 @@ public class IndexResource {
 
                 Meta meta = result.getMeta();
                 if (meta == null || meta.getTotal() == null || meta.getLimit() == null) {
-                    return Uni.createFrom().item(all);
+                    return Uni.createFrom().item(List.copyOf(all));
                 }
 
                 int total = meta.getTotal();
@@ -304,7 +328,7 @@ public class IndexResource {
                 int totalPages = (int) Math.ceil(total / (double) pageSize);
 
                 if (totalPages <= 1) {
-                    return Uni.createFrom().item(all);
+                    return Uni.createFrom().item(List.copyOf(all));
                 }
 
                 return Multi.createFrom().range(2, totalPages + 1)
@@ -323,7 +347,7 @@ public class IndexResource {
                     .collect().asList()
                     .map(x -> {
                         all.addAll(x);
-                        return all;
+                        return List.copyOf(all);
                     });
             });
     }